@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class GossipBench_jmhType extends GossipBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class NativeReadBench_jmhType extends NativeReadBench_jmhType_B3 {
+}
+
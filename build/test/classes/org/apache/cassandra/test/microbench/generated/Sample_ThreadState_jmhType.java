@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class Sample_ThreadState_jmhType extends Sample_ThreadState_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class Sample_jmhType extends Sample_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class StreamingHistogramBench_jmhType extends StreamingHistogramBench_jmhType_B3 {
+}
+
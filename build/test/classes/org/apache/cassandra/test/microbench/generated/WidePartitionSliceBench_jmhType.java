@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.generated;
+public class WidePartitionSliceBench_jmhType extends WidePartitionSliceBench_jmhType_B3 {
+}
+